@@ -0,0 +1,13 @@
+#!/usr/bin/env bash
+# Runs every benchmark once per thread count and writes one JSON result file per run.
+# Usage: ./run.sh [jmh options...], e.g. ./run.sh BetterFilter -p size=1000
+set -euo pipefail
+cd "$(dirname "$0")"
+
+THREADS="${THREADS:-1 2 4 8}"
+RESULTS="${RESULTS:-results/$(date +%Y%m%d-%H%M%S)}"
+mkdir -p "$RESULTS"
+
+for t in $THREADS; do
+  java -jar target/benchmarks.jar -t "$t" -prof gc -rf json -rff "$RESULTS/threads-$t.json" "$@"
+done
@@ -0,0 +1,31 @@
+package com.github.eugenenosenko.solid;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// the measured code prints on every call, console output would dominate the numbers
+public final class Quiet {
+  private static PrintStream original;
+
+  private Quiet() {}
+
+  public static synchronized void on() {
+    if (original != null) return;
+    original = System.out;
+    System.setOut(
+        new PrintStream(
+            new OutputStream() {
+              @Override
+              public void write(int b) {}
+
+              @Override
+              public void write(byte[] b, int off, int len) {}
+            }));
+  }
+
+  public static synchronized void off() {
+    if (original == null) return;
+    System.setOut(original);
+    original = null;
+  }
+}
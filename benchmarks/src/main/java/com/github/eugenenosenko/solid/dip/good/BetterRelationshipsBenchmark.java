@@ -0,0 +1,53 @@
+package com.github.eugenenosenko.solid.dip.good;
+
+import com.github.eugenenosenko.solid.dip.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BetterRelationshipsBenchmark {
+  // number of parent-child pairs, every pair adds two relations
+  @Param({"1000", "100000", "10000000"})
+  int size;
+
+  // parents have ten children each
+  private static final int CHILDREN = 10;
+
+  private final BetterRelationships relationships = new BetterRelationships();
+
+  @Setup
+  public void setUp() {
+    Person parent = null;
+    for (int i = 0; i < size; i++) {
+      if (i % CHILDREN == 0) parent = new Person("parent-" + i / CHILDREN);
+      relationships.addParentAndChild(parent, new Person("child-" + i));
+    }
+  }
+
+  @Benchmark
+  public List<Person> findAllChildrenOf() {
+    return relationships.findAllChildrenOf("parent-" + (size / CHILDREN / 2));
+  }
+
+  @Benchmark
+  public List<Person> findAllChildrenOfUnknown() {
+    return relationships.findAllChildrenOf("nobody");
+  }
+}
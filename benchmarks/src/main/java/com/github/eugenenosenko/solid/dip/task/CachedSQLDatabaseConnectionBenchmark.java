@@ -0,0 +1,58 @@
+package com.github.eugenenosenko.solid.dip.task;
+
+import com.github.eugenenosenko.solid.Quiet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// the connection is not thread safe, so every benchmark thread gets its own
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedSQLDatabaseConnectionBenchmark {
+  // distinct queries already in the cache
+  @Param({"1000", "100000", "10000000"})
+  int size;
+
+  private CachedSQLDatabaseConnection connection;
+  private String[] queries;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Quiet.on();
+    connection = new CachedSQLDatabaseConnection();
+    queries = new String[size];
+    for (int i = 0; i < size; i++) {
+      queries[i] = "SELECT * FROM users WHERE id = " + i;
+      connection.doSelect(queries[i]);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Quiet.off();
+  }
+
+  @Benchmark
+  public String doSelectCached() {
+    String query = queries[next];
+    if (++next == queries.length) next = 0;
+    return connection.doSelect(query);
+  }
+}
@@ -0,0 +1,98 @@
+package com.github.eugenenosenko.solid.lsp.spatial;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// GridIndex against the brute-force scan. density is constant, so only the scan grows with size.
+// the data and the index are read-only and shared by all threads, only the query cursor is not
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SpatialIndexBenchmark {
+  private static final int MAX_SIDE = 100;
+  private static final int QUERIES = 1024;
+
+  @Param({"10000", "100000", "1000000", "10000000"})
+  int size;
+
+  @Param({"grid", "brute-force"})
+  String index;
+
+  private List<PositionedRectangle> rectangles;
+  private PositionedRectangle[] queries;
+  private SpatialIndex spatialIndex;
+
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+
+    PositionedRectangle next(PositionedRectangle[] queries) {
+      PositionedRectangle query = queries[next];
+      next = (next + 1) & (QUERIES - 1);
+      return query;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    int world = (int) Math.sqrt((double) size * MAX_SIDE * MAX_SIDE);
+    rectangles = generate(size, world, new Random(42));
+    queries = generate(QUERIES, world, new Random(7)).toArray(new PositionedRectangle[0]);
+    spatialIndex = load();
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public SpatialIndex load() {
+    if (index.equals("grid")) return GridIndex.bulkLoad(rectangles);
+    SpatialIndex bruteForce = new BruteForceIndex();
+    for (PositionedRectangle r : rectangles) bruteForce.insert(r);
+    return bruteForce;
+  }
+
+  @Benchmark
+  public List<PositionedRectangle> findOverlapping(Cursor cursor) {
+    return spatialIndex.findOverlapping(cursor.next(queries));
+  }
+
+  @Benchmark
+  public List<PositionedRectangle> findContaining(Cursor cursor) {
+    PositionedRectangle q = cursor.next(queries);
+    return spatialIndex.findContaining(q.getX(), q.getY());
+  }
+
+  @Benchmark
+  public List<PositionedRectangle> findNearest(Cursor cursor) {
+    PositionedRectangle q = cursor.next(queries);
+    return spatialIndex.findNearest(q.getX(), q.getY(), 10);
+  }
+
+  private static List<PositionedRectangle> generate(int n, int world, Random random) {
+    List<PositionedRectangle> result = new ArrayList<>(n);
+    for (int i = 0; i < n; i++)
+      result.add(
+          new PositionedRectangle(
+              random.nextInt(world),
+              random.nextInt(world),
+              1 + random.nextInt(MAX_SIDE),
+              1 + random.nextInt(MAX_SIDE)));
+    return result;
+  }
+}
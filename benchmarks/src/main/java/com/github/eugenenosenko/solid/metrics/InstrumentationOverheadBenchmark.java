@@ -0,0 +1,56 @@
+package com.github.eugenenosenko.solid.metrics;
+
+import com.github.eugenenosenko.solid.dip.Person;
+import com.github.eugenenosenko.solid.dip.good.InstrumentedRelationshipBrowser;
+import com.github.eugenenosenko.solid.dip.good.RelationshipBrowser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// cost of the decorator itself, around a browser that does no work
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstrumentationOverheadBenchmark {
+  private final List<Person> children = Collections.singletonList(new Person("Chris"));
+  private final RelationshipBrowser plain = name -> children;
+  private final RelationshipBrowser disabled =
+      InstrumentedRelationshipBrowser.of(plain, Metrics.disabled());
+  private final RelationshipBrowser sampled =
+      InstrumentedRelationshipBrowser.of(plain, new DefaultMetrics());
+  private final RelationshipBrowser everyCall =
+      InstrumentedRelationshipBrowser.of(plain, new DefaultMetrics(1));
+
+  @Benchmark
+  public List<Person> baseline() {
+    return plain.findAllChildrenOf("John");
+  }
+
+  @Benchmark
+  public List<Person> disabled() {
+    return disabled.findAllChildrenOf("John");
+  }
+
+  @Benchmark
+  public List<Person> sampled() {
+    return sampled.findAllChildrenOf("John");
+  }
+
+  @Benchmark
+  public List<Person> everyCall() {
+    return everyCall.findAllChildrenOf("John");
+  }
+}
@@ -0,0 +1,63 @@
+package com.github.eugenenosenko.solid.ocp.good;
+
+import com.github.eugenenosenko.solid.ocp.bad.Color;
+import com.github.eugenenosenko.solid.ocp.bad.Product;
+import com.github.eugenenosenko.solid.ocp.bad.Size;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BetterFilterBenchmark {
+  // 10^8 needs about 6 GB of heap, run it with -jvmArgs -Xmx8g
+  @Param({"1000", "100000", "10000000"})
+  int size;
+
+  private final BetterFilter filter = new BetterFilter();
+  private final Specification<Product> color = new ColorSpecification(Color.GREEN);
+  private final Specification<Product> colorAndSize =
+      new AndSpecification<>(new ColorSpecification(Color.BLUE), new SizeSpecification(Size.LARGE));
+  private List<Product> products;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    Color[] colors = Color.values();
+    Size[] sizes = Size.values();
+    products = new ArrayList<>(size);
+    for (int i = 0; i < size; i++)
+      products.add(
+          new Product(
+              "product-" + i,
+              colors[random.nextInt(colors.length)],
+              sizes[random.nextInt(sizes.length)]));
+  }
+
+  @Benchmark
+  public long filterByColor() {
+    return filter.filter(products, color).count();
+  }
+
+  @Benchmark
+  public long filterByColorAndSize() {
+    return filter.filter(products, colorAndSize).count();
+  }
+}
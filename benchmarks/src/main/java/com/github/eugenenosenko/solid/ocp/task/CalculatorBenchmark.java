@@ -0,0 +1,106 @@
+package com.github.eugenenosenko.solid.ocp.task;
+
+import com.github.eugenenosenko.solid.ocp.calculator.BatchCalculator;
+import com.github.eugenenosenko.solid.ocp.calculator.Expression;
+import com.github.eugenenosenko.solid.ocp.calculator.ExpressionCompiler;
+import com.github.eugenenosenko.solid.ocp.calculator.Operator;
+import com.github.eugenenosenko.solid.ocp.calculator.OperatorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// scalar Calculator calls against the batch paths, every op processes the whole column
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalculatorBenchmark {
+  private static final String FORMULA = "(a + b) * 3 - a / 7";
+
+  @Param({"1000", "1000000", "10000000"})
+  int size;
+
+  private final Calculator calculator = new Calculator();
+  private final OperatorRegistry registry = OperatorRegistry.standard();
+  private final Operator add = registry.resolve("add");
+  private final Expression formula = new ExpressionCompiler(registry).compile(FORMULA, "a", "b");
+  private final BatchCalculator sequential =
+      new BatchCalculator(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+  private final BatchCalculator parallel = new BatchCalculator();
+  private int[] a, b, out;
+  private int[][] columns;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    a = new int[size];
+    b = new int[size];
+    out = new int[size];
+    for (int i = 0; i < size; i++) {
+      a[i] = random.nextInt();
+      b[i] = random.nextInt(1000) + 1;
+    }
+    columns = new int[][] {a, b};
+  }
+
+  @Benchmark
+  public int[] scalarCalculate() {
+    for (int i = 0; i < size; i++) out[i] = calculator.calculate("add", a[i], b[i]);
+    return out;
+  }
+
+  @Benchmark
+  public int[] scalarResolvedOperator() {
+    for (int i = 0; i < size; i++) out[i] = add.apply(a[i], b[i]);
+    return out;
+  }
+
+  @Benchmark
+  public int[] batchAdd() {
+    sequential.apply(add, a, b, out);
+    return out;
+  }
+
+  @Benchmark
+  public int[] batchAddForkJoin() {
+    parallel.apply(add, a, b, out);
+    return out;
+  }
+
+  @Benchmark
+  public int[] scalarFormula() {
+    int[] row = new int[2];
+    for (int i = 0; i < size; i++) {
+      row[0] = a[i];
+      row[1] = b[i];
+      out[i] = formula.evaluate(row);
+    }
+    return out;
+  }
+
+  @Benchmark
+  public int[] batchFormula() {
+    sequential.evaluate(formula, columns, out);
+    return out;
+  }
+
+  @Benchmark
+  public int[] batchFormulaForkJoin() {
+    parallel.evaluate(formula, columns, out);
+    return out;
+  }
+}
@@ -0,0 +1,65 @@
+package com.github.eugenenosenko.solid.srp.good;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+// Journal is not thread safe, so every benchmark thread gets its own
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+  // entries in the journal before the measurement starts
+  @Param({"1000", "100000", "1000000"})
+  int size;
+
+  private final Persistence<Journal> persistence = new Persistence<>();
+  private Journal journal;
+  private File file;
+
+  @Setup(Level.Trial)
+  public void createFile() throws Exception {
+    file = File.createTempFile("journal", ".txt");
+  }
+
+  // addEntry grows the journal, start every iteration from the same size
+  @Setup(Level.Iteration)
+  public void fillJournal() {
+    journal = new Journal();
+    for (int i = 0; i < size; i++) journal.addEntry("entry " + i);
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteFile() {
+    file.delete();
+  }
+
+  @Benchmark
+  public Journal addEntry() {
+    journal.addEntry("I ate a bug");
+    return journal;
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public File saveToFile() throws Exception {
+    persistence.saveToFile(journal, file.getPath(), true);
+    return file;
+  }
+}
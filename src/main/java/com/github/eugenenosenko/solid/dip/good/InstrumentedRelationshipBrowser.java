@@ -0,0 +1,31 @@
+package com.github.eugenenosenko.solid.dip.good;
+
+import com.github.eugenenosenko.solid.dip.Person;
+import com.github.eugenenosenko.solid.metrics.Metrics;
+import com.github.eugenenosenko.solid.metrics.Operation;
+
+import java.util.List;
+
+public class InstrumentedRelationshipBrowser implements RelationshipBrowser {
+  private final RelationshipBrowser browser;
+  private final Operation findAllChildrenOf;
+
+  private InstrumentedRelationshipBrowser(RelationshipBrowser browser, Metrics metrics) {
+    this.browser = browser;
+    this.findAllChildrenOf = metrics.operation("RelationshipBrowser.findAllChildrenOf");
+  }
+
+  public static RelationshipBrowser of(RelationshipBrowser browser, Metrics metrics) {
+    return metrics.isEnabled() ? new InstrumentedRelationshipBrowser(browser, metrics) : browser;
+  }
+
+  @Override
+  public List<Person> findAllChildrenOf(String name) {
+    long start = findAllChildrenOf.start();
+    try {
+      return browser.findAllChildrenOf(name);
+    } finally {
+      findAllChildrenOf.stop(start);
+    }
+  }
+}
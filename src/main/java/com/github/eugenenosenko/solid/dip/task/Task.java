@@ -1,5 +1,8 @@
 package com.github.eugenenosenko.solid.dip.task;
 
+import com.github.eugenenosenko.solid.metrics.Metrics;
+import com.github.eugenenosenko.solid.metrics.Operation;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -71,3 +74,65 @@ class UserPersistenceService {
     return savedUsers;
   }
 }
+
+class InstrumentedDatabaseConnection extends CachedSQLDatabaseConnection {
+  private final CachedSQLDatabaseConnection connection;
+  private final Operation select, delete, insert, update;
+
+  private InstrumentedDatabaseConnection(CachedSQLDatabaseConnection connection, Metrics metrics) {
+    this.connection = connection;
+    this.select = metrics.operation("CachedSQLDatabaseConnection.doSelect");
+    this.delete = metrics.operation("CachedSQLDatabaseConnection.doDelete");
+    this.insert = metrics.operation("CachedSQLDatabaseConnection.doInsert");
+    this.update = metrics.operation("CachedSQLDatabaseConnection.doUpdate");
+  }
+
+  static CachedSQLDatabaseConnection of(CachedSQLDatabaseConnection connection, Metrics metrics) {
+    return metrics.isEnabled() ? new InstrumentedDatabaseConnection(connection, metrics) : connection;
+  }
+
+  @Override
+  String doSelect(String sqlString) {
+    long start = select.start();
+    try {
+      return connection.doSelect(sqlString);
+    } finally {
+      select.stop(start);
+    }
+  }
+
+  @Override
+  String doDelete(String sqlString) {
+    long start = delete.start();
+    try {
+      return connection.doDelete(sqlString);
+    } finally {
+      delete.stop(start);
+    }
+  }
+
+  @Override
+  String doInsert(String sqlString) {
+    long start = insert.start();
+    try {
+      return connection.doInsert(sqlString);
+    } finally {
+      insert.stop(start);
+    }
+  }
+
+  @Override
+  String doUpdate(String sqlString) {
+    long start = update.start();
+    try {
+      return connection.doUpdate(sqlString);
+    } finally {
+      update.stop(start);
+    }
+  }
+
+  @Override
+  public Map<String, String> getCachedQueries() {
+    return connection.getCachedQueries();
+  }
+}
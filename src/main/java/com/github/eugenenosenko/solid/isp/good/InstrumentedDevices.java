@@ -0,0 +1,48 @@
+package com.github.eugenenosenko.solid.isp.good;
+
+import com.github.eugenenosenko.solid.metrics.Metrics;
+import com.github.eugenenosenko.solid.metrics.Operation;
+
+// each device interface has a single method, so the decorators are plain lambdas
+public final class InstrumentedDevices {
+  private InstrumentedDevices() {}
+
+  public static Printer printer(Printer printer, Metrics metrics) {
+    if (!metrics.isEnabled()) return printer;
+    Operation print = metrics.operation("Printer.print");
+    return text -> {
+      long start = print.start();
+      try {
+        printer.print(text);
+      } finally {
+        print.stop(start);
+      }
+    };
+  }
+
+  public static Scanner scanner(Scanner scanner, Metrics metrics) {
+    if (!metrics.isEnabled()) return scanner;
+    Operation scan = metrics.operation("Scanner.scan");
+    return () -> {
+      long start = scan.start();
+      try {
+        scanner.scan();
+      } finally {
+        scan.stop(start);
+      }
+    };
+  }
+
+  public static Fax fax(Fax fax, Metrics metrics) {
+    if (!metrics.isEnabled()) return fax;
+    Operation send = metrics.operation("Fax.fax");
+    return () -> {
+      long start = send.start();
+      try {
+        fax.fax();
+      } finally {
+        send.stop(start);
+      }
+    };
+  }
+}
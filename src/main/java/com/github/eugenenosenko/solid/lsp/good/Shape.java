@@ -0,0 +1,48 @@
+package com.github.eugenenosenko.solid.lsp.good;
+
+// immutable counterpart of Rectangle. there are no setters to override,
+// so a square can never be turned into something that is not a square
+public final class Shape {
+  private final int width, height;
+  private final int hash;
+
+  Shape(int width, int height) {
+    this.width = width;
+    this.height = height;
+    this.hash = 31 * width + height;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public int getArea() {
+    return width * height;
+  }
+
+  public boolean isSquare() {
+    return width == height;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof Shape)) return false;
+    Shape other = (Shape) o;
+    return width == other.width && height == other.height;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "Shape{" + "width=" + width + ", height=" + height + '}';
+  }
+}
@@ -2,13 +2,64 @@ package com.github.eugenenosenko.solid.lsp.good;
 
 import com.github.eugenenosenko.solid.lsp.Rectangle;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
 public class ShapeFactory {
+  // only dimensions up to this size are interned, bigger shapes are rare.
+  // the table has a slot for every width x height pair, so it never grows
+  static final int MAX_CACHED_SIDE = 256;
+
+  private static final AtomicReferenceArray<Shape> shapes =
+      new AtomicReferenceArray<>((MAX_CACHED_SIDE + 1) * (MAX_CACHED_SIDE + 1));
+  private static final AtomicInteger cachedShapes = new AtomicInteger();
+  private static final LongAdder hits = new LongAdder();
+  private static final LongAdder misses = new LongAdder();
+
   // no need for a Square class at all
   // creation of squares can be delegated to a factory
   public static Rectangle createSquare(int side) {
-    Rectangle rect = new Rectangle();
-    rect.setWidth(side);
-    rect.setHeight(side);
-    return rect;
+    return new Rectangle(side, side);
+  }
+
+  public static Shape square(int side) {
+    return shape(side, side);
+  }
+
+  // equal shapes share one instance as long as they fit into the cache
+  public static Shape shape(int width, int height) {
+    if (width < 0 || height < 0)
+      throw new IllegalArgumentException("Negative dimensions: " + width + "x" + height);
+    if (width > MAX_CACHED_SIDE || height > MAX_CACHED_SIDE) {
+      misses.increment();
+      return new Shape(width, height);
+    }
+    int slot = width * (MAX_CACHED_SIDE + 1) + height;
+    Shape shape = shapes.get(slot);
+    if (shape != null) {
+      hits.increment();
+      return shape;
+    }
+    misses.increment();
+    // first writer wins so concurrent callers still end up with the same instance
+    Shape created = new Shape(width, height);
+    if (shapes.compareAndSet(slot, null, created)) {
+      cachedShapes.incrementAndGet();
+      return created;
+    }
+    return shapes.get(slot);
+  }
+
+  public static long getHits() {
+    return hits.sum();
+  }
+
+  public static long getMisses() {
+    return misses.sum();
+  }
+
+  public static int getCachedShapes() {
+    return cachedShapes.get();
   }
 }
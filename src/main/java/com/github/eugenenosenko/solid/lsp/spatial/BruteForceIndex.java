@@ -0,0 +1,44 @@
+package com.github.eugenenosenko.solid.lsp.spatial;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// linear scan over every rectangle, kept as a baseline for GridIndex
+public class BruteForceIndex implements SpatialIndex {
+  private final List<PositionedRectangle> rectangles = new ArrayList<>();
+
+  @Override
+  public void insert(PositionedRectangle rectangle) {
+    rectangles.add(rectangle);
+  }
+
+  @Override
+  public boolean remove(PositionedRectangle rectangle) {
+    return rectangles.remove(rectangle);
+  }
+
+  @Override
+  public int size() {
+    return rectangles.size();
+  }
+
+  @Override
+  public List<PositionedRectangle> findOverlapping(PositionedRectangle area) {
+    return rectangles.stream().filter(r -> r.overlaps(area)).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<PositionedRectangle> findContaining(int x, int y) {
+    return rectangles.stream().filter(r -> r.contains(x, y)).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<PositionedRectangle> findNearest(int x, int y, int k) {
+    return rectangles.stream()
+        .sorted(Comparator.comparingDouble(r -> r.distanceSquaredTo(x, y)))
+        .limit(k)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,213 @@
+package com.github.eugenenosenko.solid.lsp.spatial;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// uniform grid, every rectangle is registered in each cell it touches.
+// works best when the cell size is close to the size of a typical rectangle
+public class GridIndex implements SpatialIndex {
+  private final int cellSize;
+  private final Map<Long, List<PositionedRectangle>> cells;
+  private int size;
+  // bounds of all cells ever used, only grow so they stay valid after removals
+  private int minCellX = Integer.MAX_VALUE, minCellY = Integer.MAX_VALUE;
+  private int maxCellX = Integer.MIN_VALUE, maxCellY = Integer.MIN_VALUE;
+
+  public GridIndex(int cellSize) {
+    this(cellSize, 16);
+  }
+
+  private GridIndex(int cellSize, int expectedCells) {
+    if (cellSize <= 0) throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+    this.cellSize = cellSize;
+    this.cells = new HashMap<>(expectedCells * 4 / 3 + 1);
+  }
+
+  // picks the cell size from the average rectangle size
+  public static GridIndex bulkLoad(Collection<PositionedRectangle> rectangles) {
+    long total = 0;
+    for (PositionedRectangle r : rectangles) total += Math.max(r.getWidth(), r.getHeight());
+    int average = rectangles.isEmpty() ? 1 : (int) (total / rectangles.size());
+    return bulkLoad(rectangles, Math.max(1, 2 * average));
+  }
+
+  public static GridIndex bulkLoad(Collection<PositionedRectangle> rectangles, int cellSize) {
+    GridIndex index = new GridIndex(cellSize, rectangles.size());
+    for (PositionedRectangle r : rectangles) index.insert(r);
+    return index;
+  }
+
+  @Override
+  public void insert(PositionedRectangle rectangle) {
+    int fromX = firstCell(rectangle.getX()), toX = lastCell(rectangle.getX(), rectangle.getMaxX());
+    int fromY = firstCell(rectangle.getY()), toY = lastCell(rectangle.getY(), rectangle.getMaxY());
+    for (int cx = fromX; cx <= toX; cx++)
+      for (int cy = fromY; cy <= toY; cy++)
+        cells.computeIfAbsent(key(cx, cy), k -> new ArrayList<>(4)).add(rectangle);
+    minCellX = Math.min(minCellX, fromX);
+    minCellY = Math.min(minCellY, fromY);
+    maxCellX = Math.max(maxCellX, toX);
+    maxCellY = Math.max(maxCellY, toY);
+    size++;
+  }
+
+  @Override
+  public boolean remove(PositionedRectangle rectangle) {
+    int fromX = firstCell(rectangle.getX()), toX = lastCell(rectangle.getX(), rectangle.getMaxX());
+    int fromY = firstCell(rectangle.getY()), toY = lastCell(rectangle.getY(), rectangle.getMaxY());
+    boolean removed = false;
+    for (int cx = fromX; cx <= toX; cx++)
+      for (int cy = fromY; cy <= toY; cy++) {
+        Long key = key(cx, cy);
+        List<PositionedRectangle> cell = cells.get(key);
+        if (cell != null && cell.remove(rectangle)) {
+          removed = true;
+          if (cell.isEmpty()) cells.remove(key);
+        }
+      }
+    if (removed) size--;
+    return removed;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public List<PositionedRectangle> findOverlapping(PositionedRectangle area) {
+    List<PositionedRectangle> result = new ArrayList<>();
+    int fromX = Math.max(firstCell(area.getX()), minCellX);
+    int toX = Math.min(lastCell(area.getX(), area.getMaxX()), maxCellX);
+    int fromY = Math.max(firstCell(area.getY()), minCellY);
+    int toY = Math.min(lastCell(area.getY(), area.getMaxY()), maxCellY);
+    for (int cx = fromX; cx <= toX; cx++)
+      for (int cy = fromY; cy <= toY; cy++) {
+        List<PositionedRectangle> cell = cells.get(key(cx, cy));
+        if (cell == null) continue;
+        for (PositionedRectangle r : cell) {
+          // a rectangle spanning several cells is reported only from the cell holding
+          // the top-left corner of the intersection, so no de-duplication is needed
+          if (r.overlaps(area)
+              && firstCell(Math.max(r.getX(), area.getX())) == cx
+              && firstCell(Math.max(r.getY(), area.getY())) == cy) result.add(r);
+        }
+      }
+    return result;
+  }
+
+  @Override
+  public List<PositionedRectangle> findContaining(int x, int y) {
+    List<PositionedRectangle> cell = cells.get(key(firstCell(x), firstCell(y)));
+    if (cell == null) return Collections.emptyList();
+    List<PositionedRectangle> result = new ArrayList<>();
+    for (PositionedRectangle r : cell) if (r.contains(x, y)) result.add(r);
+    return result;
+  }
+
+  @Override
+  public List<PositionedRectangle> findNearest(int x, int y, int k) {
+    if (k <= 0 || size == 0) return Collections.emptyList();
+    k = Math.min(k, size);
+    Comparator<PositionedRectangle> byDistance =
+        Comparator.comparingDouble(r -> r.distanceSquaredTo(x, y));
+    PriorityQueue<PositionedRectangle> best = new PriorityQueue<>(k, byDistance.reversed());
+    Set<PositionedRectangle> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    long px = firstCell(x), py = firstCell(y);
+    // rings closer than the used cells are empty, rings further out cannot hold anything
+    long firstRing = Math.max(distance(px, minCellX, maxCellX), distance(py, minCellY, maxCellY));
+    long lastRing =
+        Math.max(
+            Math.max(Math.abs(px - minCellX), Math.abs(px - maxCellX)),
+            Math.max(Math.abs(py - minCellY), Math.abs(py - maxCellY)));
+    // a sparse grid has far more empty cells in its rings than used ones, once walking the
+    // rings has cost as much as the used cells, the remaining ones are scanned directly
+    long budget = cells.size();
+    for (long ring = firstRing; ring <= lastRing; ring++) {
+      // every rectangle has been looked at, nothing further out can change the result
+      if (seen.size() == size) break;
+      // anything first met in this ring lies outside the inner rings of cells
+      if (best.size() == k && ring > 0) {
+        double bound = (double) (ring - 1) * cellSize;
+        if (best.peek().distanceSquaredTo(x, y) <= bound * bound) break;
+      }
+      long fromX = Math.max(px - ring, minCellX), toX = Math.min(px + ring, maxCellX);
+      long fromY = Math.max(py - ring, minCellY), toY = Math.min(py + ring, maxCellY);
+      long cost = 2 * Math.max(0, toX - fromX + 1) + 2 * Math.max(0, toY - fromY + 1);
+      if (cost > budget) {
+        for (Map.Entry<Long, List<PositionedRectangle>> cell : cells.entrySet()) {
+          long cx = (int) (cell.getKey() >> 32), cy = (int) (long) cell.getKey();
+          if (Math.max(Math.abs(cx - px), Math.abs(cy - py)) >= ring)
+            visit(cell.getValue(), k, best, seen, byDistance);
+        }
+        break;
+      }
+      budget -= cost;
+      if (px - ring >= minCellX)
+        for (long cy = fromY; cy <= toY; cy++) visit(px - ring, cy, k, best, seen, byDistance);
+      if (ring > 0 && px + ring <= maxCellX)
+        for (long cy = fromY; cy <= toY; cy++) visit(px + ring, cy, k, best, seen, byDistance);
+      for (long cx = Math.max(fromX, px - ring + 1); cx <= Math.min(toX, px + ring - 1); cx++) {
+        if (py - ring >= minCellY) visit(cx, py - ring, k, best, seen, byDistance);
+        if (ring > 0 && py + ring <= maxCellY) visit(cx, py + ring, k, best, seen, byDistance);
+      }
+    }
+    List<PositionedRectangle> result = new ArrayList<>(best);
+    result.sort(byDistance);
+    return result;
+  }
+
+  private void visit(
+      long cx,
+      long cy,
+      int k,
+      PriorityQueue<PositionedRectangle> best,
+      Set<PositionedRectangle> seen,
+      Comparator<PositionedRectangle> byDistance) {
+    List<PositionedRectangle> cell = cells.get(key((int) cx, (int) cy));
+    if (cell != null) visit(cell, k, best, seen, byDistance);
+  }
+
+  private static void visit(
+      List<PositionedRectangle> cell,
+      int k,
+      PriorityQueue<PositionedRectangle> best,
+      Set<PositionedRectangle> seen,
+      Comparator<PositionedRectangle> byDistance) {
+    for (PositionedRectangle r : cell) {
+      if (!seen.add(r)) continue;
+      if (best.size() < k) best.add(r);
+      else if (byDistance.compare(r, best.peek()) < 0) {
+        best.poll();
+        best.add(r);
+      }
+    }
+  }
+
+  // distance in cells from c to the range [min, max], 0 when inside
+  private static long distance(long c, long min, long max) {
+    return c < min ? min - c : c > max ? c - max : 0;
+  }
+
+  private int firstCell(int coordinate) {
+    return Math.floorDiv(coordinate, cellSize);
+  }
+
+  // rectangles are half-open, an empty one still lives in the cell of its origin
+  private int lastCell(int min, long max) {
+    long last = Math.max(min, Math.min(max - 1, Integer.MAX_VALUE));
+    return (int) Math.floorDiv(last, (long) cellSize);
+  }
+
+  private static Long key(int cx, int cy) {
+    return ((long) cx << 32) | (cy & 0xffffffffL);
+  }
+}
@@ -0,0 +1,79 @@
+package com.github.eugenenosenko.solid.lsp.spatial;
+
+import com.github.eugenenosenko.solid.lsp.Rectangle;
+
+// rectangle placed on a plane, covers [x, x + width) x [y, y + height)
+public final class PositionedRectangle {
+  private final int x, y, width, height;
+
+  public PositionedRectangle(int x, int y, int width, int height) {
+    if (width < 0 || height < 0)
+      throw new IllegalArgumentException("Negative dimensions: " + width + "x" + height);
+    this.x = x;
+    this.y = y;
+    this.width = width;
+    this.height = height;
+  }
+
+  public PositionedRectangle(int x, int y, Rectangle rectangle) {
+    this(x, y, rectangle.getWidth(), rectangle.getHeight());
+  }
+
+  public int getX() {
+    return x;
+  }
+
+  public int getY() {
+    return y;
+  }
+
+  public int getWidth() {
+    return width;
+  }
+
+  public int getHeight() {
+    return height;
+  }
+
+  public long getMaxX() {
+    return (long) x + width;
+  }
+
+  public long getMaxY() {
+    return (long) y + height;
+  }
+
+  public boolean overlaps(PositionedRectangle other) {
+    return x < other.getMaxX() && other.x < getMaxX() && y < other.getMaxY() && other.y < getMaxY();
+  }
+
+  public boolean contains(int px, int py) {
+    return px >= x && px < getMaxX() && py >= y && py < getMaxY();
+  }
+
+  // squared euclidean distance from a point to the closest point of the rectangle
+  public double distanceSquaredTo(double px, double py) {
+    double dx = Math.max(0, Math.max(x - px, px - getMaxX()));
+    double dy = Math.max(0, Math.max(y - py, py - getMaxY()));
+    return dx * dx + dy * dy;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof PositionedRectangle)) return false;
+    PositionedRectangle other = (PositionedRectangle) o;
+    return x == other.x && y == other.y && width == other.width && height == other.height;
+  }
+
+  @Override
+  public int hashCode() {
+    return ((31 * x + y) * 31 + width) * 31 + height;
+  }
+
+  @Override
+  public String toString() {
+    return "PositionedRectangle{"
+        + "x=" + x + ", y=" + y + ", width=" + width + ", height=" + height + '}';
+  }
+}
@@ -0,0 +1,18 @@
+package com.github.eugenenosenko.solid.lsp.spatial;
+
+import java.util.List;
+
+public interface SpatialIndex {
+  void insert(PositionedRectangle rectangle);
+
+  boolean remove(PositionedRectangle rectangle);
+
+  int size();
+
+  List<PositionedRectangle> findOverlapping(PositionedRectangle area);
+
+  List<PositionedRectangle> findContaining(int x, int y);
+
+  // closest rectangles first, a rectangle containing the point has distance 0
+  List<PositionedRectangle> findNearest(int x, int y, int k);
+}
@@ -0,0 +1,96 @@
+package com.github.eugenenosenko.solid.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// counts every call, but reads the clock only for a random sample of them since
+// System.nanoTime() is the most expensive part of timing a call
+public class DefaultMetrics implements Metrics {
+  static final int DEFAULT_SAMPLE_EVERY = 32;
+  private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  private final ConcurrentMap<String, DefaultOperation> operations = new ConcurrentHashMap<>();
+  private final int sampleMask;
+  private final long createdAt = System.nanoTime();
+
+  public DefaultMetrics() {
+    this(DEFAULT_SAMPLE_EVERY);
+  }
+
+  // sampleEvery is rounded up to a power of two, 1 times every call
+  public DefaultMetrics(int sampleEvery) {
+    if (sampleEvery <= 0)
+      throw new IllegalArgumentException("Sample rate must be positive: " + sampleEvery);
+    sampleMask = sampleEvery == 1 ? 0 : (Integer.highestOneBit(sampleEvery - 1) << 1) - 1;
+  }
+
+  @Override
+  public Operation operation(String name) {
+    return operations.computeIfAbsent(name, n -> new DefaultOperation(n, sampleMask, true));
+  }
+
+  // a name is either timed or counted, whichever asked for it first
+  @Override
+  public Operation counter(String name) {
+    return operations.computeIfAbsent(name, n -> new DefaultOperation(n, sampleMask, false));
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public List<OperationSnapshot> snapshot() {
+    double seconds = (System.nanoTime() - createdAt) / 1e9;
+    List<OperationSnapshot> result = new ArrayList<>();
+    for (DefaultOperation operation : operations.values()) result.add(operation.snapshot(seconds));
+    result.sort((a, b) -> a.getName().compareTo(b.getName()));
+    return result;
+  }
+
+  private static final class DefaultOperation implements Operation {
+    private final String name;
+    private final int sampleMask;
+    private final boolean timed;
+    private final LongAdder calls = new LongAdder();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+
+    DefaultOperation(String name, int sampleMask, boolean timed) {
+      this.name = name;
+      this.sampleMask = sampleMask;
+      this.timed = timed;
+    }
+
+    @Override
+    public long start() {
+      if (!timed) return NOT_SAMPLED;
+      if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0)
+        return NOT_SAMPLED;
+      return System.nanoTime();
+    }
+
+    @Override
+    public void stop(long start) {
+      calls.increment();
+      if (start != NOT_SAMPLED) latencies.record(System.nanoTime() - start);
+    }
+
+    OperationSnapshot snapshot(double seconds) {
+      long[] counts = latencies.counts();
+      long total = calls.sum();
+      return new OperationSnapshot(
+          name,
+          total,
+          seconds > 0 ? total / seconds : 0,
+          timed,
+          LatencyHistogram.percentile(counts, 50),
+          LatencyHistogram.percentile(counts, 99),
+          LatencyHistogram.max(counts));
+    }
+  }
+}
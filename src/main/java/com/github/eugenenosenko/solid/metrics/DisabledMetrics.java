@@ -0,0 +1,30 @@
+package com.github.eugenenosenko.solid.metrics;
+
+import java.util.Collections;
+import java.util.List;
+
+final class DisabledMetrics implements Metrics {
+  static final DisabledMetrics INSTANCE = new DisabledMetrics();
+
+  private DisabledMetrics() {}
+
+  @Override
+  public Operation operation(String name) {
+    return Operation.NOOP;
+  }
+
+  @Override
+  public Operation counter(String name) {
+    return Operation.NOOP;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public List<OperationSnapshot> snapshot() {
+    return Collections.emptyList();
+  }
+}
@@ -0,0 +1,69 @@
+package com.github.eugenenosenko.solid.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// HDR-style log-linear histogram of nanosecond latencies. every power of two is split into
+// 2^PRECISION_BITS linear buckets, so recorded values are within ~3% of the real ones.
+// counts are striped by thread to keep concurrent writers off each other's cache lines
+public class LatencyHistogram {
+  static final int PRECISION_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << PRECISION_BITS;
+  static final int BUCKETS = (64 - PRECISION_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray[] stripes;
+
+  public LatencyHistogram() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  public LatencyHistogram(int concurrency) {
+    int count = concurrency <= 1 ? 1 : Integer.highestOneBit(concurrency - 1) << 1;
+    stripes = new AtomicLongArray[count];
+    for (int i = 0; i < stripes.length; i++) stripes[i] = new AtomicLongArray(BUCKETS);
+  }
+
+  public void record(long nanos) {
+    int stripe = (int) Thread.currentThread().getId() & (stripes.length - 1);
+    stripes[stripe].incrementAndGet(bucketOf(Math.max(0, nanos)));
+  }
+
+  // merged copy of all stripes
+  long[] counts() {
+    long[] counts = new long[BUCKETS];
+    for (AtomicLongArray stripe : stripes)
+      for (int i = 0; i < BUCKETS; i++) counts[i] += stripe.get(i);
+    return counts;
+  }
+
+  static long percentile(long[] counts, double percentile) {
+    long total = 0;
+    for (long count : counts) total += count;
+    if (total == 0) return 0;
+    long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) return valueOf(i);
+    }
+    return valueOf(counts.length - 1);
+  }
+
+  static long max(long[] counts) {
+    for (int i = counts.length - 1; i >= 0; i--) if (counts[i] > 0) return valueOf(i);
+    return 0;
+  }
+
+  static int bucketOf(long value) {
+    if (value < SUB_BUCKETS) return (int) value;
+    int shift = 63 - Long.numberOfLeadingZeros(value) - PRECISION_BITS;
+    return ((shift + 1) << PRECISION_BITS) + (int) (value >>> shift) - SUB_BUCKETS;
+  }
+
+  // middle of the bucket
+  static long valueOf(int bucket) {
+    if (bucket < SUB_BUCKETS) return bucket;
+    int shift = (bucket >>> PRECISION_BITS) - 1;
+    long lowest = (long) ((bucket & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+    return lowest + ((1L << shift) >>> 1);
+  }
+}
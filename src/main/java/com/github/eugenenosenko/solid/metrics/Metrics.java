@@ -0,0 +1,21 @@
+package com.github.eugenenosenko.solid.metrics;
+
+import java.util.List;
+
+// instrumentation SPI. decorators ask for one Operation per method they time
+public interface Metrics {
+  Operation operation(String name);
+
+  // for calls whose duration means nothing, e.g. ones that only build a lazy result. they are
+  // counted but never timed, and their snapshot has no latencies
+  Operation counter(String name);
+
+  boolean isEnabled();
+
+  List<OperationSnapshot> snapshot();
+
+  // decorators return the undecorated service for these metrics, so disabled costs nothing
+  static Metrics disabled() {
+    return DisabledMetrics.INSTANCE;
+  }
+}
@@ -0,0 +1,19 @@
+package com.github.eugenenosenko.solid.metrics;
+
+// usage: long start = operation.start(); try { ... } finally { operation.stop(start); }
+public interface Operation {
+  Operation NOOP =
+      new Operation() {
+        @Override
+        public long start() {
+          return 0;
+        }
+
+        @Override
+        public void stop(long start) {}
+      };
+
+  long start();
+
+  void stop(long start);
+}
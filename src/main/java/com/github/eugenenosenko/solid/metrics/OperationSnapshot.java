@@ -0,0 +1,74 @@
+package com.github.eugenenosenko.solid.metrics;
+
+import java.util.Locale;
+
+public final class OperationSnapshot {
+  public static final String CSV_HEADER = "operation,calls,calls_per_second,p50_ns,p99_ns,max_ns";
+
+  private final String name;
+  private final long calls;
+  private final double callsPerSecond;
+  private final boolean timed;
+  private final long p50, p99, max;
+
+  OperationSnapshot(
+      String name,
+      long calls,
+      double callsPerSecond,
+      boolean timed,
+      long p50,
+      long p99,
+      long max) {
+    this.name = name;
+    this.calls = calls;
+    this.callsPerSecond = callsPerSecond;
+    this.timed = timed;
+    this.p50 = p50;
+    this.p99 = p99;
+    this.max = max;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getCalls() {
+    return calls;
+  }
+
+  public double getCallsPerSecond() {
+    return callsPerSecond;
+  }
+
+  // false for counters, their latencies are all 0 and left empty in the output
+  public boolean isTimed() {
+    return timed;
+  }
+
+  public long getP50Nanos() {
+    return p50;
+  }
+
+  public long getP99Nanos() {
+    return p99;
+  }
+
+  public long getMaxNanos() {
+    return max;
+  }
+
+  public String toCsv() {
+    if (!timed) return String.format(Locale.ROOT, "%s,%d,%.1f,,,", name, calls, callsPerSecond);
+    return String.format(Locale.ROOT, "%s,%d,%.1f,%d,%d,%d", name, calls, callsPerSecond, p50, p99, max);
+  }
+
+  @Override
+  public String toString() {
+    if (!timed)
+      return String.format(Locale.ROOT, "%s: %d calls, %.1f/s", name, calls, callsPerSecond);
+    return String.format(
+        Locale.ROOT,
+        "%s: %d calls, %.1f/s, p50=%dns, p99=%dns, max=%dns",
+        name, calls, callsPerSecond, p50, p99, max);
+  }
+}
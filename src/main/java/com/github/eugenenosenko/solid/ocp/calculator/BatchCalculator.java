@@ -0,0 +1,149 @@
+package com.github.eugenenosenko.solid.ocp.calculator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// applies an operator or a compiled expression to whole columns of operands.
+// arrays longer than the parallel threshold are split across a fork-join pool.
+// expressions need a few block sized buffers, they are allocated once per task
+public class BatchCalculator {
+  static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+  // expressions are evaluated in blocks that stay in cache
+  static final int BLOCK_SIZE = 1024;
+
+  private final ForkJoinPool pool;
+  private final int parallelThreshold;
+
+  public BatchCalculator() {
+    this(ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+  }
+
+  public BatchCalculator(ForkJoinPool pool, int parallelThreshold) {
+    if (parallelThreshold <= 0)
+      throw new IllegalArgumentException("Threshold must be positive: " + parallelThreshold);
+    this.pool = pool;
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  public void apply(Operator operator, int[] a, int[] b, int[] out) {
+    checkLengths(a.length, b.length, out.length);
+    run(out.length, (from, to) -> operator.apply(a, from, b, from, out, from, to - from));
+  }
+
+  public void apply(Operator operator, long[] a, long[] b, long[] out) {
+    checkLengths(a.length, b.length, out.length);
+    run(out.length, (from, to) -> operator.apply(a, from, b, from, out, from, to - from));
+  }
+
+  // columns[v][i] is the value of variable v in row i. out may be one of the columns, the
+  // expression is then evaluated into a block buffer first, since the column evaluation writes
+  // partial results into out while it still reads the operands
+  public void evaluate(Expression expression, int[][] columns, int[] out) {
+    for (int[] column : columns) checkLengths(column.length, out.length, out.length);
+    boolean aliased = isColumn(columns, out);
+    run(
+        out.length,
+        (from, to) -> {
+          if (!(expression instanceof CompiledExpression)) {
+            int[] row = new int[columns.length];
+            for (int i = from; i < to; i++) {
+              for (int v = 0; v < columns.length; v++) row[v] = columns[v][i];
+              out[i] = expression.evaluate(row);
+            }
+            return;
+          }
+          CompiledExpression compiled = (CompiledExpression) expression;
+          int[][] scratch = new int[compiled.scratchDepth()][Math.min(BLOCK_SIZE, to - from)];
+          if (!aliased) {
+            for (int i = from; i < to; i += BLOCK_SIZE) {
+              int length = Math.min(BLOCK_SIZE, to - i);
+              compiled.evaluate(columns, i, out, i, length, scratch, 0);
+            }
+            return;
+          }
+          int[] block = new int[Math.min(BLOCK_SIZE, to - from)];
+          for (int i = from; i < to; i += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, to - i);
+            compiled.evaluate(columns, i, block, 0, length, scratch, 0);
+            System.arraycopy(block, 0, out, i, length);
+          }
+        });
+  }
+
+  public void evaluate(Expression expression, long[][] columns, long[] out) {
+    for (long[] column : columns) checkLengths(column.length, out.length, out.length);
+    boolean aliased = isColumn(columns, out);
+    run(
+        out.length,
+        (from, to) -> {
+          if (!(expression instanceof CompiledExpression)) {
+            long[] row = new long[columns.length];
+            for (int i = from; i < to; i++) {
+              for (int v = 0; v < columns.length; v++) row[v] = columns[v][i];
+              out[i] = expression.evaluate(row);
+            }
+            return;
+          }
+          CompiledExpression compiled = (CompiledExpression) expression;
+          long[][] scratch = new long[compiled.scratchDepth()][Math.min(BLOCK_SIZE, to - from)];
+          if (!aliased) {
+            for (int i = from; i < to; i += BLOCK_SIZE) {
+              int length = Math.min(BLOCK_SIZE, to - i);
+              compiled.evaluate(columns, i, out, i, length, scratch, 0);
+            }
+            return;
+          }
+          long[] block = new long[Math.min(BLOCK_SIZE, to - from)];
+          for (int i = from; i < to; i += BLOCK_SIZE) {
+            int length = Math.min(BLOCK_SIZE, to - i);
+            compiled.evaluate(columns, i, block, 0, length, scratch, 0);
+            System.arraycopy(block, 0, out, i, length);
+          }
+        });
+  }
+
+  private void run(int length, Range range) {
+    if (length <= parallelThreshold) range.apply(0, length);
+    else pool.invoke(new Split(range, 0, length, parallelThreshold));
+  }
+
+  private static void checkLengths(int a, int b, int out) {
+    if (a < out || b < out)
+      throw new IllegalArgumentException(
+          "Operand columns are shorter than the output: " + a + ", " + b + " < " + out);
+  }
+
+  private static boolean isColumn(Object[] columns, Object out) {
+    for (Object column : columns) if (column == out) return true;
+    return false;
+  }
+
+  private interface Range {
+    void apply(int from, int to);
+  }
+
+  private static class Split extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Range range;
+    private final int from, to, threshold;
+
+    Split(Range range, int from, int to, int threshold) {
+      this.range = range;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        range.apply(from, to);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new Split(range, from, middle, threshold), new Split(range, middle, to, threshold));
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package com.github.eugenenosenko.solid.ocp.calculator;
+
+// expression tree produced by ExpressionCompiler. besides row by row evaluation it can work a
+// column at a time, so each operator runs as one tight loop over a block of rows
+abstract class CompiledExpression implements Expression {
+  // number of scratch buffers the column evaluation needs
+  int scratchDepth() {
+    return 0;
+  }
+
+  // writes rows [row, row + length) into out[outFrom, outFrom + length). out must not be one of
+  // the columns, it holds partial results while operands are still read. scratch[level..] are
+  // free for this node to use, each at least length long
+  abstract void evaluate(
+      int[][] columns, int row, int[] out, int outFrom, int length, int[][] scratch, int level);
+
+  abstract void evaluate(
+      long[][] columns, int row, long[] out, int outFrom, int length, long[][] scratch, int level);
+}
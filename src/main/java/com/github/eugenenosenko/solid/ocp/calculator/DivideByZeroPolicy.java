@@ -0,0 +1,10 @@
+package com.github.eugenenosenko.solid.ocp.calculator;
+
+public enum DivideByZeroPolicy {
+  // ArithmeticException, same as plain java division
+  THROW,
+  // x / 0 == 0
+  ZERO,
+  // x / 0 is the max or min value depending on the sign of x, 0 / 0 == 0
+  SATURATE
+}
@@ -0,0 +1,8 @@
+package com.github.eugenenosenko.solid.ocp.calculator;
+
+// compiled formula. evaluation does not allocate and instances are safe to share between threads
+public interface Expression {
+  long evaluate(long[] variables);
+
+  int evaluate(int[] variables);
+}
@@ -0,0 +1,243 @@
+package com.github.eugenenosenko.solid.ocp.calculator;
+
+import java.util.Arrays;
+import java.util.List;
+
+// recursive descent parser for formulas like "(a + 2) * b - c / 4".
+// variables are bound by position, so evaluate(new long[] {a, b, c}) for the formula above
+public class ExpressionCompiler {
+  private final OperatorRegistry registry;
+
+  public ExpressionCompiler(OperatorRegistry registry) {
+    this.registry = registry;
+  }
+
+  public Expression compile(String formula, String... variables) {
+    return new Parser(formula, Arrays.asList(variables)).parse();
+  }
+
+  private class Parser {
+    private final String formula;
+    private final List<String> variables;
+    private int position;
+
+    Parser(String formula, List<String> variables) {
+      this.formula = formula;
+      this.variables = variables;
+    }
+
+    CompiledExpression parse() {
+      CompiledExpression expression = parseBinary(0);
+      skipWhitespace();
+      if (position < formula.length()) throw error("Unexpected '" + formula.charAt(position) + "'");
+      return expression;
+    }
+
+    // precedence climbing, all operators are left associative
+    private CompiledExpression parseBinary(int minPrecedence) {
+      CompiledExpression left = parseOperand();
+      while (true) {
+        skipWhitespace();
+        if (position >= formula.length()) return left;
+        char symbol = formula.charAt(position);
+        int precedence = registry.precedenceOf(symbol);
+        if (precedence < minPrecedence || registry.resolve(symbol) == null) return left;
+        position++;
+        left = binary(registry.resolve(symbol), left, parseBinary(precedence + 1));
+      }
+    }
+
+    private CompiledExpression parseOperand() {
+      skipWhitespace();
+      if (position >= formula.length()) throw error("Unexpected end of formula");
+      char c = formula.charAt(position);
+      if (c == '(') {
+        position++;
+        CompiledExpression inner = parseBinary(0);
+        skipWhitespace();
+        if (position >= formula.length() || formula.charAt(position) != ')')
+          throw error("Missing ')'");
+        position++;
+        return inner;
+      }
+      if (c == '-') {
+        // unary minus, compiled as 0 - x so it follows the registry's overflow rules
+        position++;
+        return binary(registry.resolve('-'), new Constant(0), parseOperand());
+      }
+      int start = position;
+      if (Character.isDigit(c)) {
+        while (position < formula.length() && Character.isDigit(formula.charAt(position)))
+          position++;
+        try {
+          return new Constant(Long.parseLong(formula.substring(start, position)));
+        } catch (NumberFormatException e) {
+          throw error("Number out of range");
+        }
+      }
+      if (Character.isJavaIdentifierStart(c)) {
+        while (position < formula.length()
+            && Character.isJavaIdentifierPart(formula.charAt(position))) position++;
+        String name = formula.substring(start, position);
+        int index = variables.indexOf(name);
+        if (index < 0) throw error("Unknown variable '" + name + "'");
+        return new Variable(index);
+      }
+      throw error("Unexpected '" + c + "'");
+    }
+
+    private CompiledExpression binary(
+        Operator operator, CompiledExpression left, CompiledExpression right) {
+      if (operator == null) throw error("Unary minus needs a '-' operator");
+      // fold constant sub-expressions, unless evaluating them fails (e.g. 1 / 0) or
+      // the int and long evaluations could disagree
+      if (left instanceof Constant && right instanceof Constant) {
+        long a = ((Constant) left).value, b = ((Constant) right).value;
+        try {
+          long value = operator.apply(a, b);
+          if (value == (int) value && a == (int) a && b == (int) b) return new Constant(value);
+        } catch (ArithmeticException ignored) {
+          // reported on evaluation, same as without folding
+        }
+      }
+      return new Binary(operator, left, right);
+    }
+
+    private void skipWhitespace() {
+      while (position < formula.length() && Character.isWhitespace(formula.charAt(position)))
+        position++;
+    }
+
+    private IllegalArgumentException error(String message) {
+      return new IllegalArgumentException(message + " at position " + position + " in: " + formula);
+    }
+  }
+
+  private static final class Constant extends CompiledExpression {
+    private final long value;
+
+    Constant(long value) {
+      this.value = value;
+    }
+
+    @Override
+    public long evaluate(long[] variables) {
+      return value;
+    }
+
+    @Override
+    public int evaluate(int[] variables) {
+      return intValue();
+    }
+
+    @Override
+    void evaluate(
+        int[][] columns, int row, int[] out, int outFrom, int length, int[][] scratch, int level) {
+      Arrays.fill(out, outFrom, outFrom + length, intValue());
+    }
+
+    @Override
+    void evaluate(
+        long[][] columns,
+        int row,
+        long[] out,
+        int outFrom,
+        int length,
+        long[][] scratch,
+        int level) {
+      Arrays.fill(out, outFrom, outFrom + length, value);
+    }
+
+    private int intValue() {
+      if (value != (int) value) throw new ArithmeticException("Constant out of int range: " + value);
+      return (int) value;
+    }
+  }
+
+  private static final class Variable extends CompiledExpression {
+    private final int index;
+
+    Variable(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public long evaluate(long[] variables) {
+      return variables[index];
+    }
+
+    @Override
+    public int evaluate(int[] variables) {
+      return variables[index];
+    }
+
+    @Override
+    void evaluate(
+        int[][] columns, int row, int[] out, int outFrom, int length, int[][] scratch, int level) {
+      System.arraycopy(columns[index], row, out, outFrom, length);
+    }
+
+    @Override
+    void evaluate(
+        long[][] columns,
+        int row,
+        long[] out,
+        int outFrom,
+        int length,
+        long[][] scratch,
+        int level) {
+      System.arraycopy(columns[index], row, out, outFrom, length);
+    }
+  }
+
+  private static final class Binary extends CompiledExpression {
+    private final Operator operator;
+    private final CompiledExpression left, right;
+    private final int scratchDepth;
+
+    Binary(Operator operator, CompiledExpression left, CompiledExpression right) {
+      this.operator = operator;
+      this.left = left;
+      this.right = right;
+      // the left side is written straight into the output, the right one needs a buffer
+      this.scratchDepth = Math.max(left.scratchDepth(), right.scratchDepth() + 1);
+    }
+
+    @Override
+    int scratchDepth() {
+      return scratchDepth;
+    }
+
+    @Override
+    public long evaluate(long[] variables) {
+      return operator.apply(left.evaluate(variables), right.evaluate(variables));
+    }
+
+    @Override
+    public int evaluate(int[] variables) {
+      return operator.apply(left.evaluate(variables), right.evaluate(variables));
+    }
+
+    @Override
+    void evaluate(
+        int[][] columns, int row, int[] out, int outFrom, int length, int[][] scratch, int level) {
+      left.evaluate(columns, row, out, outFrom, length, scratch, level);
+      right.evaluate(columns, row, scratch[level], 0, length, scratch, level + 1);
+      operator.apply(out, outFrom, scratch[level], 0, out, outFrom, length);
+    }
+
+    @Override
+    void evaluate(
+        long[][] columns,
+        int row,
+        long[] out,
+        int outFrom,
+        int length,
+        long[][] scratch,
+        int level) {
+      left.evaluate(columns, row, out, outFrom, length, scratch, level);
+      right.evaluate(columns, row, scratch[level], 0, length, scratch, level + 1);
+      operator.apply(out, outFrom, scratch[level], 0, out, outFrom, length);
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.github.eugenenosenko.solid.ocp.calculator;
+
+public interface Operator {
+  int apply(int a, int b);
+
+  long apply(long a, long b);
+
+  // out[outFrom + i] = a[aFrom + i] op b[bFrom + i] for i in [0, length). operators override
+  // these with plain loops over the arrays when the JIT can vectorise them
+  default void apply(int[] a, int aFrom, int[] b, int bFrom, int[] out, int outFrom, int length) {
+    for (int i = 0; i < length; i++) out[outFrom + i] = apply(a[aFrom + i], b[bFrom + i]);
+  }
+
+  default void apply(
+      long[] a, int aFrom, long[] b, int bFrom, long[] out, int outFrom, int length) {
+    for (int i = 0; i < length; i++) out[outFrom + i] = apply(a[aFrom + i], b[bFrom + i]);
+  }
+}
@@ -0,0 +1,55 @@
+package com.github.eugenenosenko.solid.ocp.calculator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// new operators are added by registering them, not by editing an if-chain
+public class OperatorRegistry {
+  private final Map<String, Operator> byName = new HashMap<>();
+  private final Map<Character, Operator> bySymbol = new HashMap<>();
+  private final Map<Character, Integer> precedence = new HashMap<>();
+
+  public static OperatorRegistry standard() {
+    return standard(false, DivideByZeroPolicy.THROW);
+  }
+
+  public static OperatorRegistry standard(boolean checked, DivideByZeroPolicy policy) {
+    OperatorRegistry registry = new OperatorRegistry();
+    registry.register("add", '+', 1, Operators.add(checked));
+    registry.register("subtract", '-', 1, Operators.subtract(checked));
+    registry.register("multiply", '*', 2, Operators.multiply(checked));
+    registry.register("divide", '/', 2, Operators.divide(checked, policy));
+    return registry;
+  }
+
+  public OperatorRegistry register(String name, Operator operator) {
+    byName.put(name, operator);
+    return this;
+  }
+
+  // operators with a symbol can be used in formulas, higher precedence binds tighter
+  public OperatorRegistry register(String name, char symbol, int precedence, Operator operator) {
+    if (Character.isLetterOrDigit(symbol) || symbol == '(' || symbol == ')')
+      throw new IllegalArgumentException("Symbol cannot be used as an operator: " + symbol);
+    register(name, operator);
+    bySymbol.put(symbol, operator);
+    this.precedence.put(symbol, precedence);
+    return this;
+  }
+
+  public Operator resolve(String name) {
+    Operator operator = byName.get(name);
+    if (operator == null)
+      throw new UnsupportedOperationException("Unknown operation: " + name);
+    return operator;
+  }
+
+  Operator resolve(char symbol) {
+    return bySymbol.get(symbol);
+  }
+
+  int precedenceOf(char symbol) {
+    Integer p = precedence.get(symbol);
+    return p == null ? -1 : p;
+  }
+}
@@ -0,0 +1,150 @@
+package com.github.eugenenosenko.solid.ocp.calculator;
+
+// built-in operators. checked variants throw ArithmeticException on overflow
+public final class Operators {
+  private Operators() {}
+
+  public static Operator add(boolean checked) {
+    return checked
+        ? new Operator() {
+          @Override
+          public int apply(int a, int b) {
+            return Math.addExact(a, b);
+          }
+
+          @Override
+          public long apply(long a, long b) {
+            return Math.addExact(a, b);
+          }
+        }
+        : new Operator() {
+          @Override
+          public int apply(int a, int b) {
+            return a + b;
+          }
+
+          @Override
+          public long apply(long a, long b) {
+            return a + b;
+          }
+
+          @Override
+          public void apply(
+              int[] a, int aFrom, int[] b, int bFrom, int[] out, int outFrom, int length) {
+            for (int i = 0; i < length; i++) out[outFrom + i] = a[aFrom + i] + b[bFrom + i];
+          }
+
+          @Override
+          public void apply(
+              long[] a, int aFrom, long[] b, int bFrom, long[] out, int outFrom, int length) {
+            for (int i = 0; i < length; i++) out[outFrom + i] = a[aFrom + i] + b[bFrom + i];
+          }
+        };
+  }
+
+  public static Operator subtract(boolean checked) {
+    return checked
+        ? new Operator() {
+          @Override
+          public int apply(int a, int b) {
+            return Math.subtractExact(a, b);
+          }
+
+          @Override
+          public long apply(long a, long b) {
+            return Math.subtractExact(a, b);
+          }
+        }
+        : new Operator() {
+          @Override
+          public int apply(int a, int b) {
+            return a - b;
+          }
+
+          @Override
+          public long apply(long a, long b) {
+            return a - b;
+          }
+
+          @Override
+          public void apply(
+              int[] a, int aFrom, int[] b, int bFrom, int[] out, int outFrom, int length) {
+            for (int i = 0; i < length; i++) out[outFrom + i] = a[aFrom + i] - b[bFrom + i];
+          }
+
+          @Override
+          public void apply(
+              long[] a, int aFrom, long[] b, int bFrom, long[] out, int outFrom, int length) {
+            for (int i = 0; i < length; i++) out[outFrom + i] = a[aFrom + i] - b[bFrom + i];
+          }
+        };
+  }
+
+  public static Operator multiply(boolean checked) {
+    return checked
+        ? new Operator() {
+          @Override
+          public int apply(int a, int b) {
+            return Math.multiplyExact(a, b);
+          }
+
+          @Override
+          public long apply(long a, long b) {
+            return Math.multiplyExact(a, b);
+          }
+        }
+        : new Operator() {
+          @Override
+          public int apply(int a, int b) {
+            return a * b;
+          }
+
+          @Override
+          public long apply(long a, long b) {
+            return a * b;
+          }
+
+          @Override
+          public void apply(
+              int[] a, int aFrom, int[] b, int bFrom, int[] out, int outFrom, int length) {
+            for (int i = 0; i < length; i++) out[outFrom + i] = a[aFrom + i] * b[bFrom + i];
+          }
+
+          @Override
+          public void apply(
+              long[] a, int aFrom, long[] b, int bFrom, long[] out, int outFrom, int length) {
+            for (int i = 0; i < length; i++) out[outFrom + i] = a[aFrom + i] * b[bFrom + i];
+          }
+        };
+  }
+
+  // MIN_VALUE / -1 is the only overflowing division
+  public static Operator divide(boolean checked, DivideByZeroPolicy policy) {
+    return new Operator() {
+      @Override
+      public int apply(int a, int b) {
+        if (b == 0) {
+          if (policy == DivideByZeroPolicy.ZERO || (policy == DivideByZeroPolicy.SATURATE && a == 0))
+            return 0;
+          if (policy == DivideByZeroPolicy.SATURATE)
+            return a > 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        }
+        if (checked && a == Integer.MIN_VALUE && b == -1)
+          throw new ArithmeticException("integer overflow");
+        return a / b;
+      }
+
+      @Override
+      public long apply(long a, long b) {
+        if (b == 0) {
+          if (policy == DivideByZeroPolicy.ZERO || (policy == DivideByZeroPolicy.SATURATE && a == 0))
+            return 0;
+          if (policy == DivideByZeroPolicy.SATURATE) return a > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        if (checked && a == Long.MIN_VALUE && b == -1)
+          throw new ArithmeticException("long overflow");
+        return a / b;
+      }
+    };
+  }
+}
@@ -0,0 +1,60 @@
+package com.github.eugenenosenko.solid.ocp.good;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// keeps filter views materialised, so reading a view costs O(result) instead of a full scan.
+// every change costs one specification check per registered view. items are tracked by
+// identity, so they can be changed in place even when their hashCode depends on that state
+public class Catalog<T> {
+  private final Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Map<Specification<T>, FilterView<T>> views = new IdentityHashMap<>();
+
+  public Catalog() {}
+
+  public Catalog(Collection<T> items) {
+    this.items.addAll(items);
+  }
+
+  // the same specification instance always gets the same view
+  public FilterView<T> view(Specification<T> spec) {
+    FilterView<T> view = views.get(spec);
+    if (view == null) {
+      view = new FilterView<>(spec);
+      for (T item : items) view.refresh(item);
+      views.put(spec, view);
+    }
+    return view;
+  }
+
+  public void removeView(Specification<T> spec) {
+    views.remove(spec);
+  }
+
+  public void add(T item) {
+    if (items.add(item)) for (FilterView<T> view : views.values()) view.refresh(item);
+  }
+
+  // call after changing an item in place
+  public void update(T item) {
+    if (!items.contains(item)) throw new IllegalArgumentException("Not in the catalog: " + item);
+    for (FilterView<T> view : views.values()) view.refresh(item);
+  }
+
+  public void remove(T item) {
+    if (items.remove(item)) for (FilterView<T> view : views.values()) view.leave(item);
+  }
+
+  public List<T> items() {
+    return Collections.unmodifiableList(new ArrayList<>(items));
+  }
+
+  public int size() {
+    return items.size();
+  }
+}
@@ -0,0 +1,58 @@
+package com.github.eugenenosenko.solid.ocp.good;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// items of a Catalog satisfying one specification, kept up to date by the catalog
+public class FilterView<T> {
+  private final Specification<T> spec;
+  // same identity semantics as the catalog, in no particular order
+  private final Set<T> items = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final List<ViewListener<T>> listeners = new ArrayList<>();
+
+  FilterView(Specification<T> spec) {
+    this.spec = spec;
+  }
+
+  public Stream<T> stream() {
+    return items.stream();
+  }
+
+  public Set<T> items() {
+    return Collections.unmodifiableSet(items);
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public boolean contains(T item) {
+    return items.contains(item);
+  }
+
+  public void addListener(ViewListener<T> listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(ViewListener<T> listener) {
+    listeners.remove(listener);
+  }
+
+  // re-evaluates a single item, called by the catalog whenever an item changes
+  void refresh(T item) {
+    if (spec.isSatisfied(item)) enter(item);
+    else leave(item);
+  }
+
+  void enter(T item) {
+    if (items.add(item)) for (ViewListener<T> listener : listeners) listener.entered(item);
+  }
+
+  void leave(T item) {
+    if (items.remove(item)) for (ViewListener<T> listener : listeners) listener.left(item);
+  }
+}
@@ -0,0 +1,34 @@
+package com.github.eugenenosenko.solid.ocp.good;
+
+import com.github.eugenenosenko.solid.metrics.Metrics;
+import com.github.eugenenosenko.solid.metrics.Operation;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// streams are lazy and stay lazy, the filtering runs later in whatever terminal operation the
+// caller applies. timing filter() would only time building the pipeline, so calls are counted
+// and "Filter.filter" has no latencies
+public class InstrumentedFilter<T> implements Filter<T> {
+  private final Filter<T> filter;
+  private final Operation operation;
+
+  private InstrumentedFilter(Filter<T> filter, Metrics metrics) {
+    this.filter = filter;
+    this.operation = metrics.counter("Filter.filter");
+  }
+
+  public static <T> Filter<T> of(Filter<T> filter, Metrics metrics) {
+    return metrics.isEnabled() ? new InstrumentedFilter<>(filter, metrics) : filter;
+  }
+
+  @Override
+  public Stream<T> filter(List<T> items, Specification<T> spec) {
+    long start = operation.start();
+    try {
+      return filter.filter(items, spec);
+    } finally {
+      operation.stop(start);
+    }
+  }
+}
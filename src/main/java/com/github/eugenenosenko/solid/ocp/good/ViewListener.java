@@ -0,0 +1,7 @@
+package com.github.eugenenosenko.solid.ocp.good;
+
+public interface ViewListener<T> {
+  void entered(T item);
+
+  void left(T item);
+}
@@ -1,23 +1,31 @@
 package com.github.eugenenosenko.solid.ocp.task;
 
+import com.github.eugenenosenko.solid.ocp.calculator.Operator;
+import com.github.eugenenosenko.solid.ocp.calculator.OperatorRegistry;
+import com.github.eugenenosenko.solid.ocp.calculator.Operators;
+
 public class Task {
   // Refactor the code below so that it does follows OCP principle
 }
 
 class Calculator {
+  private final OperatorRegistry registry;
+
+  Calculator() {
+    // "multiple" is kept for existing callers
+    this(OperatorRegistry.standard().register("multiple", Operators.multiply(false)));
+  }
+
+  Calculator(OperatorRegistry registry) {
+    this.registry = registry;
+  }
 
   int calculate(String action, int a, int b) {
-    if (action.equals("add")) {
-      return a + b;
-    } else if (action.equals("subtract")) {
-      return a - b;
-    } else if (action.equals("divide")) {
-      return a / b;
-    } else if (action.equals("multiple")) {
-      return a * b;
-    } else {
-      throw new UnsupportedOperationException(
-          "Do not support other operations except for add / subtract / divide / multiply");
-    }
+    return registry.resolve(action).apply(a, b);
+  }
+
+  // resolve once and reuse the operator in hot loops
+  Operator operator(String action) {
+    return registry.resolve(action);
   }
 }
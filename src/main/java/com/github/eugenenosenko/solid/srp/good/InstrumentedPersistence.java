@@ -0,0 +1,51 @@
+package com.github.eugenenosenko.solid.srp.good;
+
+import com.github.eugenenosenko.solid.metrics.Metrics;
+import com.github.eugenenosenko.solid.metrics.Operation;
+
+import java.net.URL;
+
+public class InstrumentedPersistence<T> extends Persistence<T> {
+  private final Persistence<T> persistence;
+  private final Operation saveToFile, load;
+
+  private InstrumentedPersistence(Persistence<T> persistence, Metrics metrics) {
+    this.persistence = persistence;
+    this.saveToFile = metrics.operation("Persistence.saveToFile");
+    this.load = metrics.operation("Persistence.load");
+  }
+
+  public static <T> Persistence<T> of(Persistence<T> persistence, Metrics metrics) {
+    return metrics.isEnabled() ? new InstrumentedPersistence<>(persistence, metrics) : persistence;
+  }
+
+  @Override
+  public void saveToFile(T t, String filename, boolean overwrite) throws Exception {
+    long start = saveToFile.start();
+    try {
+      persistence.saveToFile(t, filename, overwrite);
+    } finally {
+      saveToFile.stop(start);
+    }
+  }
+
+  @Override
+  public void load(T t, String filename) {
+    long start = load.start();
+    try {
+      persistence.load(t, filename);
+    } finally {
+      load.stop(start);
+    }
+  }
+
+  @Override
+  public void load(T t, URL url) {
+    long start = load.start();
+    try {
+      persistence.load(t, url);
+    } finally {
+      load.stop(start);
+    }
+  }
+}
@@ -1,17 +1,90 @@
 package com.github.eugenenosenko.solid.srp.good;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class Journal {
   private final List<String> entries = new ArrayList<>();
-  private static int count = 0;
+  // id of every entry, ascending since the counter only grows
+  private final List<Integer> ids = new ArrayList<>();
+  private final List<String> texts = new ArrayList<>();
+  private final JournalIndex index;
+  // per journal, so a reopened journal keeps numbering where it stopped
+  private int count = 0;
+
+  public Journal() {
+    this(new JournalIndex());
+  }
+
+  private Journal(JournalIndex index) {
+    this.index = index;
+  }
+
+  // used when reopening a saved journal, the index is taken as is and not rebuilt
+  static Journal restore(int count, List<Integer> ids, List<String> texts, JournalIndex index) {
+    Journal journal = new Journal(index);
+    journal.count = count;
+    for (int i = 0; i < ids.size(); i++) {
+      journal.entries.add("" + ids.get(i) + ": " + texts.get(i));
+      journal.ids.add(ids.get(i));
+      journal.texts.add(texts.get(i));
+    }
+    return journal;
+  }
 
   public void addEntry(String text) {
-    entries.add("" + (++count) + ": " + text);
+    int id = ++count;
+    entries.add("" + id + ": " + text);
+    ids.add(id);
+    texts.add(text);
+    index.add(id, text);
   }
 
   void removeEntry(int index) {
     entries.remove(index);
+    this.index.remove(ids.remove(index), texts.remove(index));
+  }
+
+  public List<String> findEntriesWithTerm(String term) {
+    return entriesOf(index.findTerm(term));
+  }
+
+  public List<String> findEntriesWithPrefix(String prefix) {
+    return entriesOf(index.findPrefix(prefix));
+  }
+
+  public List<String> findEntriesWithPhrase(String phrase) {
+    return entriesOf(index.findPhrase(phrase));
+  }
+
+  public JournalIndex getIndex() {
+    return index;
+  }
+
+  int getCount() {
+    return count;
+  }
+
+  List<Integer> getIds() {
+    return Collections.unmodifiableList(ids);
+  }
+
+  List<String> getTexts() {
+    return Collections.unmodifiableList(texts);
+  }
+
+  @Override
+  public String toString() {
+    return String.join(System.lineSeparator(), entries);
+  }
+
+  private List<String> entriesOf(int[] found) {
+    List<String> result = new ArrayList<>(found.length);
+    for (int id : found) {
+      int position = Collections.binarySearch(ids, id);
+      if (position >= 0) result.add(entries.get(position));
+    }
+    return result;
   }
 }
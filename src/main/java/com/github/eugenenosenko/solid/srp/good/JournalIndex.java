@@ -0,0 +1,125 @@
+package com.github.eugenenosenko.solid.srp.good;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// inverted index from lower-cased words to the ids of the entries containing them
+public class JournalIndex {
+  private final NavigableMap<String, PostingList> terms = new TreeMap<>();
+
+  void add(int id, String text) {
+    Map<String, int[]> positions = new HashMap<>();
+    Map<String, Integer> counts = new HashMap<>();
+    List<String> tokens = tokenize(text);
+    for (int i = 0; i < tokens.size(); i++) {
+      String token = tokens.get(i);
+      int count = counts.getOrDefault(token, 0);
+      int[] p = positions.computeIfAbsent(token, t -> new int[2]);
+      if (count == p.length) positions.put(token, p = Arrays.copyOf(p, count * 2));
+      p[count] = i;
+      counts.put(token, count + 1);
+    }
+    for (Map.Entry<String, int[]> e : positions.entrySet())
+      terms.computeIfAbsent(e.getKey(), t -> new PostingList())
+          .add(id, e.getValue(), counts.get(e.getKey()));
+  }
+
+  void remove(int id, String text) {
+    for (String token : tokenize(text)) {
+      PostingList postings = terms.get(token);
+      if (postings != null && postings.remove(id) && postings.size() == 0) terms.remove(token);
+    }
+  }
+
+  // ids of the entries containing the word, in ascending order
+  public int[] findTerm(String term) {
+    PostingList postings = terms.get(term.toLowerCase(Locale.ROOT));
+    return postings == null ? new int[0] : postings.ids();
+  }
+
+  // entries with a word starting with the prefix. ids of all matching terms are gathered
+  // first and sorted once, merging them list by list would be quadratic
+  public int[] findPrefix(String prefix) {
+    String from = prefix.toLowerCase(Locale.ROOT);
+    int[] ids = new int[16];
+    int count = 0;
+    for (PostingList postings :
+        terms.subMap(from, true, from + Character.MAX_VALUE, false).values()) {
+      int[] termIds = postings.ids();
+      if (count + termIds.length > ids.length)
+        ids = Arrays.copyOf(ids, Math.max(ids.length * 2, count + termIds.length));
+      System.arraycopy(termIds, 0, ids, count, termIds.length);
+      count += termIds.length;
+    }
+    Arrays.sort(ids, 0, count);
+    int unique = 0;
+    for (int i = 0; i < count; i++)
+      if (unique == 0 || ids[i] != ids[unique - 1]) ids[unique++] = ids[i];
+    return Arrays.copyOf(ids, unique);
+  }
+
+  // entries where the words of the phrase follow each other
+  public int[] findPhrase(String phrase) {
+    List<String> tokens = tokenize(phrase);
+    if (tokens.isEmpty()) return new int[0];
+    PostingList.Decoded[] lists = new PostingList.Decoded[tokens.size()];
+    for (int i = 0; i < tokens.size(); i++) {
+      PostingList postings = terms.get(tokens.get(i));
+      if (postings == null) return new int[0];
+      lists[i] = postings.decode();
+    }
+    int[] result = new int[lists[0].ids.length];
+    int found = 0;
+    for (int i = 0; i < lists[0].ids.length; i++) {
+      int id = lists[0].ids[i];
+      int[][] positions = new int[lists.length][];
+      positions[0] = lists[0].positions[i];
+      boolean all = true;
+      for (int t = 1; t < lists.length && all; t++) {
+        int index = Arrays.binarySearch(lists[t].ids, id);
+        if (index < 0) all = false;
+        else positions[t] = lists[t].positions[index];
+      }
+      if (all && followEachOther(positions)) result[found++] = id;
+    }
+    return Arrays.copyOf(result, found);
+  }
+
+  public int termCount() {
+    return terms.size();
+  }
+
+  NavigableMap<String, PostingList> terms() {
+    return terms;
+  }
+
+  static List<String> tokenize(String text) {
+    List<String> tokens = new ArrayList<>();
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (word && start < 0) start = i;
+      else if (!word && start >= 0) {
+        tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  private static boolean followEachOther(int[][] positions) {
+    for (int first : positions[0]) {
+      boolean match = true;
+      for (int t = 1; t < positions.length && match; t++)
+        match = Arrays.binarySearch(positions[t], first + t) >= 0;
+      if (match) return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,86 @@
+package com.github.eugenenosenko.solid.srp.good;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// saves a journal as readable text plus a <journal file>.idx sidecar holding the entries,
+// the id counter and the posting lists. reopening reads only the sidecar, nothing is re-tokenized
+public class JournalPersistence {
+  private static final int VERSION = 2;
+
+  public void save(Journal journal, String journalFilename) throws IOException {
+    try (PrintStream out = new PrintStream(journalFilename, "UTF-8")) {
+      out.println(journal);
+    }
+    try (DataOutputStream out =
+        new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(indexFilename(journalFilename))))) {
+      out.writeInt(VERSION);
+      out.writeInt(journal.getCount());
+      List<Integer> ids = journal.getIds();
+      List<String> texts = journal.getTexts();
+      out.writeInt(ids.size());
+      for (int i = 0; i < ids.size(); i++) {
+        out.writeInt(ids.get(i));
+        writeBytes(out, texts.get(i).getBytes(StandardCharsets.UTF_8));
+      }
+      JournalIndex index = journal.getIndex();
+      out.writeInt(index.termCount());
+      for (Map.Entry<String, PostingList> e : index.terms().entrySet()) {
+        writeBytes(out, e.getKey().getBytes(StandardCharsets.UTF_8));
+        out.writeInt(e.getValue().size());
+        out.writeInt(e.getValue().lastId());
+        writeBytes(out, e.getValue().toBytes());
+      }
+    }
+  }
+
+  public Journal load(String journalFilename) throws IOException {
+    try (DataInputStream in =
+        new DataInputStream(
+            new BufferedInputStream(new FileInputStream(indexFilename(journalFilename))))) {
+      int version = in.readInt();
+      if (version != VERSION) throw new IOException("Unsupported journal version: " + version);
+      int count = in.readInt();
+      int entries = in.readInt();
+      List<Integer> ids = new ArrayList<>(entries);
+      List<String> texts = new ArrayList<>(entries);
+      for (int i = 0; i < entries; i++) {
+        ids.add(in.readInt());
+        texts.add(new String(readBytes(in), StandardCharsets.UTF_8));
+      }
+      JournalIndex index = new JournalIndex();
+      for (int terms = in.readInt(); terms > 0; terms--) {
+        String term = new String(readBytes(in), StandardCharsets.UTF_8);
+        int size = in.readInt(), lastId = in.readInt();
+        index.terms().put(term, PostingList.fromBytes(readBytes(in), size, lastId));
+      }
+      return Journal.restore(count, ids, texts, index);
+    }
+  }
+
+  public static String indexFilename(String journalFilename) {
+    return journalFilename + ".idx";
+  }
+
+  private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static byte[] readBytes(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return bytes;
+  }
+}
@@ -0,0 +1,136 @@
+package com.github.eugenenosenko.solid.srp.good;
+
+import java.util.Arrays;
+
+// entry ids with the positions of a term inside each entry, stored as delta encoded varints:
+// (id - previous id) (number of positions) (position - previous position)...
+// ids only grow, so adding an entry is an append
+final class PostingList {
+  private byte[] data;
+  private int length;
+  private int count;
+  private int lastId;
+
+  PostingList() {
+    this(new byte[8], 0, 0, 0);
+  }
+
+  private PostingList(byte[] data, int length, int count, int lastId) {
+    this.data = data;
+    this.length = length;
+    this.count = count;
+    this.lastId = lastId;
+  }
+
+  void add(int id, int[] positions, int positionCount) {
+    if (count > 0 && id <= lastId)
+      throw new IllegalArgumentException("Ids must grow: " + id + " after " + lastId);
+    writeVarint(count == 0 ? id : id - lastId);
+    writeVarint(positionCount);
+    int previous = 0;
+    for (int i = 0; i < positionCount; i++) {
+      writeVarint(positions[i] - previous);
+      previous = positions[i];
+    }
+    lastId = id;
+    count++;
+  }
+
+  // rewrites the list without the given id, returns false when it was not there
+  boolean remove(int id) {
+    Decoded decoded = decode();
+    int index = Arrays.binarySearch(decoded.ids, id);
+    if (index < 0) return false;
+    data = new byte[Math.max(8, length)];
+    length = 0;
+    count = 0;
+    for (int i = 0; i < decoded.ids.length; i++)
+      if (i != index) add(decoded.ids[i], decoded.positions[i], decoded.positions[i].length);
+    return true;
+  }
+
+  int size() {
+    return count;
+  }
+
+  int[] ids() {
+    int[] ids = new int[count];
+    int position = 0, id = 0;
+    for (int i = 0; i < count; i++) {
+      long read = readVarint(position);
+      id = i == 0 ? (int) read : id + (int) read;
+      position = (int) (read >>> 32);
+      ids[i] = id;
+      long positions = readVarint(position);
+      position = (int) (positions >>> 32);
+      for (int p = (int) positions; p > 0; p--) position = (int) (readVarint(position) >>> 32);
+    }
+    return ids;
+  }
+
+  Decoded decode() {
+    int[] ids = new int[count];
+    int[][] positions = new int[count][];
+    int offset = 0, id = 0;
+    for (int i = 0; i < count; i++) {
+      long read = readVarint(offset);
+      id = i == 0 ? (int) read : id + (int) read;
+      offset = (int) (read >>> 32);
+      ids[i] = id;
+      read = readVarint(offset);
+      offset = (int) (read >>> 32);
+      positions[i] = new int[(int) read];
+      int previous = 0;
+      for (int p = 0; p < positions[i].length; p++) {
+        read = readVarint(offset);
+        offset = (int) (read >>> 32);
+        previous += (int) read;
+        positions[i][p] = previous;
+      }
+    }
+    return new Decoded(ids, positions);
+  }
+
+  byte[] toBytes() {
+    return Arrays.copyOf(data, length);
+  }
+
+  static PostingList fromBytes(byte[] bytes, int count, int lastId) {
+    return new PostingList(bytes, bytes.length, count, lastId);
+  }
+
+  int lastId() {
+    return lastId;
+  }
+
+  private void writeVarint(int value) {
+    if (length + 5 > data.length) data = Arrays.copyOf(data, Math.max(data.length * 2, length + 5));
+    while ((value & ~0x7f) != 0) {
+      data[length++] = (byte) ((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    data[length++] = (byte) value;
+  }
+
+  // value in the low 32 bits, offset after the varint in the high ones
+  private long readVarint(int offset) {
+    int value = 0, shift = 0;
+    byte b;
+    do {
+      b = data[offset++];
+      value |= (b & 0x7f) << shift;
+      shift += 7;
+    } while (b < 0);
+    return ((long) offset << 32) | (value & 0xffffffffL);
+  }
+
+  static final class Decoded {
+    final int[] ids;
+    final int[][] positions;
+
+    Decoded(int[] ids, int[][] positions) {
+      this.ids = ids;
+      this.positions = positions;
+    }
+  }
+}
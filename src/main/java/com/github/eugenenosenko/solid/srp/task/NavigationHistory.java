@@ -0,0 +1,77 @@
+package com.github.eugenenosenko.solid.srp.task;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// bounded ring buffer of visited page names, the oldest entries are dropped when full
+class NavigationHistory {
+  private final String[] entries;
+  private int start, size, cursor = -1;
+  // page that was visited right after a given page the last time, used to guess the next one
+  private final Map<String, String> successors;
+
+  NavigationHistory(int capacity) {
+    if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    entries = new String[capacity];
+    successors =
+        new LinkedHashMap<String, String>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > entries.length;
+          }
+        };
+  }
+
+  void visit(String pageName) {
+    String previous = current();
+    if (previous != null) successors.put(previous, pageName);
+    // a new visit drops the forward history
+    for (int i = cursor + 1; i < size; i++) entries[index(i)] = null;
+    size = cursor + 1;
+    if (size == entries.length) {
+      entries[start] = null;
+      start = (start + 1) % entries.length;
+      size--;
+    }
+    cursor = size;
+    entries[index(cursor)] = pageName;
+    size++;
+  }
+
+  // null when there is nowhere to go
+  String back() {
+    if (cursor <= 0) return null;
+    return entries[index(--cursor)];
+  }
+
+  String forward() {
+    if (cursor >= size - 1) return null;
+    return entries[index(++cursor)];
+  }
+
+  String current() {
+    return cursor < 0 ? null : entries[index(cursor)];
+  }
+
+  String peekBack() {
+    return cursor <= 0 ? null : entries[index(cursor - 1)];
+  }
+
+  String peekForward() {
+    return cursor >= size - 1 ? null : entries[index(cursor + 1)];
+  }
+
+  // forward entry if there is one, otherwise the page visited after the current one last time
+  String likelyNext() {
+    String next = peekForward();
+    return next != null ? next : successors.get(current());
+  }
+
+  int size() {
+    return size;
+  }
+
+  private int index(int position) {
+    return (start + position) % entries.length;
+  }
+}
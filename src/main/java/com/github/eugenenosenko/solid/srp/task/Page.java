@@ -0,0 +1,22 @@
+package com.github.eugenenosenko.solid.srp.task;
+
+class Page {
+  private final String name;
+
+  Page() {
+    this(null);
+  }
+
+  Page(String name) {
+    this.name = name;
+  }
+
+  String getName() {
+    return name;
+  }
+
+  @Override
+  public String toString() {
+    return name == null ? super.toString() : "Page{" + name + '}';
+  }
+}
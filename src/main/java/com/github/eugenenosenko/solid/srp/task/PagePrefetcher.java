@@ -0,0 +1,108 @@
+package com.github.eugenenosenko.solid.srp.task;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// loads pages in the background and retains at most maxPages of them, least recently used go first
+class PagePrefetcher {
+  private final PageSource source;
+  private final Executor executor;
+  private final Map<String, CompletableFuture<Page>> pages;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  // shared by every controller that does not bring its own executor. idle threads exit after
+  // a minute, so nothing is left running per controller
+  static final ExecutorService SHARED_EXECUTOR =
+      Executors.newCachedThreadPool(
+          r -> {
+            Thread thread = new Thread(r, "page-prefetcher");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  // the executor is not owned, it is never shut down here
+  PagePrefetcher(PageSource source, int maxPages, Executor executor) {
+    if (maxPages <= 0) throw new IllegalArgumentException("Max pages must be positive: " + maxPages);
+    this.source = source;
+    this.executor = executor;
+    this.pages =
+        new LinkedHashMap<String, CompletableFuture<Page>>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Page>> eldest) {
+            return size() > maxPages;
+          }
+        };
+  }
+
+  void prefetch(String pageName) {
+    if (pageName == null) return;
+    synchronized (pages) {
+      if (!pages.containsKey(pageName))
+        pages.put(pageName, CompletableFuture.supplyAsync(() -> source.load(pageName), executor));
+    }
+  }
+
+  // waits for a prefetch in flight, loads on the calling thread when nothing was prefetched
+  Page get(String pageName) {
+    CompletableFuture<Page> page;
+    synchronized (pages) {
+      page = pages.get(pageName);
+    }
+    if (page != null) {
+      try {
+        Page loaded = page.join();
+        hits.increment();
+        return loaded;
+      } catch (CompletionException e) {
+        // failed prefetch, try again in the foreground
+        evict(pageName);
+      }
+    }
+    misses.increment();
+    Page loaded = source.load(pageName);
+    synchronized (pages) {
+      pages.put(pageName, CompletableFuture.completedFuture(loaded));
+    }
+    return loaded;
+  }
+
+  void evict(String pageName) {
+    synchronized (pages) {
+      pages.remove(pageName);
+    }
+  }
+
+  // cancels prefetches in flight and drops every retained page
+  void clear() {
+    synchronized (pages) {
+      for (CompletableFuture<Page> page : pages.values()) page.cancel(false);
+      pages.clear();
+    }
+  }
+
+  int retainedPages() {
+    synchronized (pages) {
+      return pages.size();
+    }
+  }
+
+  long getHits() {
+    return hits.sum();
+  }
+
+  long getMisses() {
+    return misses.sum();
+  }
+
+  double getHitRate() {
+    long hits = this.hits.sum(), total = hits + misses.sum();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+}
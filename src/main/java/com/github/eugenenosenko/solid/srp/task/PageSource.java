@@ -0,0 +1,5 @@
+package com.github.eugenenosenko.solid.srp.task;
+
+interface PageSource {
+  Page load(String pageName);
+}
@@ -0,0 +1,57 @@
+package com.github.eugenenosenko.solid.srp.task;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// remembers the current page and element presence results until the next navigation
+class PageStateCache {
+  private Page currentPage;
+  private final Map<Page, Map<WebElement, Boolean>> presence = new HashMap<>();
+  private long hits, misses;
+
+  Page getCurrentPage() {
+    if (currentPage == null) misses++;
+    else hits++;
+    return currentPage;
+  }
+
+  void setCurrentPage(Page page) {
+    currentPage = page;
+  }
+
+  // null when the result is not cached
+  Boolean isElementPresent(Page page, WebElement element) {
+    Map<WebElement, Boolean> elements = presence.get(page);
+    Boolean present = elements == null ? null : elements.get(element);
+    if (present == null) misses++;
+    else hits++;
+    return present;
+  }
+
+  void setElementPresent(Page page, WebElement element, boolean present) {
+    presence.computeIfAbsent(page, p -> new HashMap<>()).put(element, present);
+  }
+
+  void invalidate() {
+    currentPage = null;
+    presence.clear();
+  }
+
+  void invalidate(Page page) {
+    if (page == currentPage) currentPage = null;
+    presence.remove(page);
+  }
+
+  long getHits() {
+    return hits;
+  }
+
+  long getMisses() {
+    return misses;
+  }
+
+  double getHitRate() {
+    long total = hits + misses;
+    return total == 0 ? 0 : (double) hits / total;
+  }
+}
@@ -1,50 +1,146 @@
 package com.github.eugenenosenko.solid.srp.task;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
 public class Task {
   // Refactor the code below so that it does not violate SRP
 
 }
 
-class Page {}
+class PageNavigationController implements AutoCloseable {
+  private final PageStateCache cache = new PageStateCache();
+  private final NavigationHistory history;
+  private final PagePrefetcher prefetcher;
+
+  PageNavigationController() {
+    this(Page::new, 50, 16);
+  }
+
+  PageNavigationController(PageSource source, int historySize, int retainedPages) {
+    this(source, historySize, retainedPages, PagePrefetcher.SHARED_EXECUTOR);
+  }
 
-class WebElement {}
+  PageNavigationController(
+      PageSource source, int historySize, int retainedPages, Executor prefetchExecutor) {
+    this.history = new NavigationHistory(historySize);
+    this.prefetcher = new PagePrefetcher(source, retainedPages, prefetchExecutor);
+  }
+
+  // stops pending prefetches and releases retained pages, the executor belongs to the caller
+  @Override
+  public void close() {
+    prefetcher.clear();
+    cache.invalidate();
+  }
 
-class PageNavigationController {
   void navigateTo(Page page) {
+    cache.invalidate();
     System.out.println("Navigating to page " + page);
   }
 
   void refresh() {
+    cache.invalidate();
+    if (history.current() != null) prefetcher.evict(history.current());
     System.out.println("Refreshing the page " + currentPage());
   }
 
-  void back() {}
+  void back() {
+    String pageName = history.back();
+    if (pageName != null) show(pageName);
+  }
 
-  void forward() {}
+  void forward() {
+    String pageName = history.forward();
+    if (pageName != null) show(pageName);
+  }
 
   void navigateTo(String pageName) {
     System.out.println("Navigating to " + pageName);
+    history.visit(pageName);
+    show(pageName);
+  }
+
+  // hint that the given pages are likely to be visited soon
+  void prefetch(String... pageNames) {
+    for (String pageName : pageNames) prefetcher.prefetch(pageName);
   }
 
   Page currentPage() {
-    System.out.println("Getting current page");
-    return new Page();
+    Page page = cache.getCurrentPage();
+    if (page == null) {
+      System.out.println("Getting current page");
+      String pageName = history.current();
+      page = pageName == null ? new Page() : prefetcher.get(pageName);
+      cache.setCurrentPage(page);
+    }
+    return page;
   }
 
   void close(Page page) {
+    cache.invalidate(page);
+    if (page.getName() != null) prefetcher.evict(page.getName());
     System.out.println("Closing page " + page);
   }
 
+  private void show(String pageName) {
+    cache.invalidate();
+    cache.setCurrentPage(prefetcher.get(pageName));
+    // the previous page is retained already, warm up the one likely to come next
+    prefetcher.prefetch(history.likelyNext());
+  }
+
   void scrollToElement(WebElement element) {
     System.out.println("Scrolling to element " + element);
   }
 
   boolean isElementPresentOnPage(Page page, WebElement element) {
-    System.out.println("Checking if " + element + " element is present on " + page);
-    return false;
+    Boolean present = cache.isElementPresent(page, element);
+    if (present == null) {
+      System.out.println("Checking if " + element + " element is present on " + page);
+      present = false;
+      cache.setElementPresent(page, element, present);
+    }
+    return present;
   }
 
   boolean isElementPresentOnCurrentPage(WebElement element) {
     return isElementPresentOnPage(currentPage(), element);
   }
+
+  // elements missing from the cache are checked in one go
+  Map<WebElement, Boolean> areElementsPresentOnPage(Page page, Collection<WebElement> elements) {
+    Map<WebElement, Boolean> result = new LinkedHashMap<>();
+    List<WebElement> unknown = new ArrayList<>();
+    for (WebElement element : elements) {
+      Boolean present = cache.isElementPresent(page, element);
+      if (present == null) unknown.add(element);
+      result.put(element, present);
+    }
+    if (!unknown.isEmpty()) {
+      System.out.println("Checking if " + unknown + " elements are present on " + page);
+      for (WebElement element : unknown) {
+        cache.setElementPresent(page, element, false);
+        result.put(element, false);
+      }
+    }
+    return result;
+  }
+
+  Map<WebElement, Boolean> areElementsPresentOnCurrentPage(Collection<WebElement> elements) {
+    return areElementsPresentOnPage(currentPage(), elements);
+  }
+
+  double getCacheHitRate() {
+    return cache.getHitRate();
+  }
+
+  // share of page loads served by a prefetch or a retained page
+  double getPrefetchHitRate() {
+    return prefetcher.getHitRate();
+  }
 }
@@ -0,0 +1,3 @@
+package com.github.eugenenosenko.solid.srp.task;
+
+class WebElement {}